@@ -1,5 +1,7 @@
 package com.fawry.ecommerce.model;
 
+import java.nio.charset.Charset;
+
 /**
  * Abstract base class for all products in the system.
  */
@@ -7,6 +9,7 @@ public abstract class Product {
     private String name;
     private double price;
     private int quantity;
+    private volatile EncodedName encodedName;
 
     public Product(String name, double price, int quantity) {
         this.name = name;
@@ -18,6 +21,21 @@ public abstract class Product {
         return name;
     }
 
+    /**
+     * Gets the product name encoded in the specified charset, printing a null name as "null".
+     * The bytes for the most recently used charset are cached, so the array must not be modified.
+     * @param charset The charset to encode with
+     * @return The encoded name
+     */
+    public byte[] getEncodedName(Charset charset) {
+        EncodedName cached = encodedName;
+        if (cached == null || !cached.charset.equals(charset)) {
+            cached = new EncodedName(charset, String.valueOf(name).getBytes(charset));
+            encodedName = cached;
+        }
+        return cached.bytes;
+    }
+
     public double getPrice() {
         return price;
     }
@@ -62,4 +80,14 @@ public abstract class Product {
      * @return true if the product requires shipping
      */
     public abstract boolean requiresShipping();
+
+    private static final class EncodedName {
+        private final Charset charset;
+        private final byte[] bytes;
+
+        private EncodedName(Charset charset, byte[] bytes) {
+            this.charset = charset;
+            this.bytes = bytes;
+        }
+    }
 }
\ No newline at end of file
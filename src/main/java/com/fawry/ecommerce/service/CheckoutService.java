@@ -6,6 +6,7 @@ import com.fawry.ecommerce.exception.ProductExpiredException;
 import com.fawry.ecommerce.exception.ProductOutOfStockException;
 import com.fawry.ecommerce.model.*;
 
+import java.io.PrintStream;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -108,20 +109,9 @@ public class CheckoutService {
      */
     private void printReceipt(Cart cart, double subtotal, double shippingCost, 
                              double totalAmount, Customer customer) {
-        System.out.println("** Checkout receipt **");
-        
-        for (CartItem item : cart.getItems()) {
-            System.out.printf("%dx %s\t%.0f%n", 
-                    item.getQuantity(), 
-                    item.getProduct().getName(), 
-                    item.getSubtotal());
-        }
-        
-        System.out.println("----------------------");
-        System.out.printf("Subtotal\t%.0f%n", subtotal);
-        System.out.printf("Shipping\t%.0f%n", shippingCost);
-        System.out.printf("Amount\t\t%.0f%n", totalAmount);
-        System.out.printf("Current Balance\t%.0f%n", customer.getBalance());
-        System.out.println();
+        PrintStream out = System.out;
+        ReceiptRenderer.current(ReceiptRenderer.charsetOf(out))
+                .receipt(cart.getItems(), subtotal, shippingCost, totalAmount, customer.getBalance())
+                .writeTo(out);
     }
 }
\ No newline at end of file
@@ -0,0 +1,438 @@
+package com.fawry.ecommerce.service;
+
+import com.fawry.ecommerce.model.CartItem;
+import com.fawry.ecommerce.model.Product;
+import com.fawry.ecommerce.model.Shippable;
+import com.fawry.ecommerce.model.ShippableProduct;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.text.DecimalFormatSymbols;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Renders shipment notices and checkout receipts into a reusable, per-thread byte buffer.
+ * The output is byte-identical to the printf based format, but integers and rounded
+ * amounts are encoded directly and product names are encoded only once per charset.
+ */
+public final class ReceiptRenderer {
+    private static final ThreadLocal<ReceiptRenderer> CURRENT = ThreadLocal.withInitial(ReceiptRenderer::new);
+
+    // PrintStream.charset() exists from Java 18; null on older runtimes
+    private static final Method PRINT_STREAM_CHARSET = printStreamCharsetMethod();
+
+    // Largest magnitude whose %.0f / %.1f form can be encoded without Formatter
+    private static final double MAX_FAST_VALUE = 1e15;
+
+    private static final byte[] SHIPMENT_HEADER = ascii("** Shipment notice **");
+    private static final byte[] RECEIPT_HEADER = ascii("** Checkout receipt **");
+    private static final byte[] SEPARATOR = ascii("----------------------");
+    private static final byte[] TOTAL_WEIGHT = ascii("Total package weight ");
+    private static final byte[] SUBTOTAL = ascii("Subtotal\t");
+    private static final byte[] SHIPPING = ascii("Shipping\t");
+    private static final byte[] AMOUNT = ascii("Amount\t\t");
+    private static final byte[] BALANCE = ascii("Current Balance\t");
+    private static final byte[] QUANTITY_SUFFIX = ascii("x ");
+    private static final byte[] GRAMS = ascii("g");
+    private static final byte[] KILOGRAMS = ascii("kg");
+
+    private static final byte[] LINE_SEPARATOR = ascii(System.lineSeparator());
+    private static final String ASCII_PROBE = asciiProbe();
+
+    private static volatile StreamCharset lastStreamCharset = new StreamCharset(null, null);
+    private static volatile NumberFormatState numberFormatState = NumberFormatState.forLocale(defaultFormatLocale());
+
+    private byte[] buffer = new byte[512];
+    private ByteBuffer byteBuffer = ByteBuffer.wrap(buffer);
+    private int length;
+    private Charset charset = Charset.defaultCharset();
+    private boolean asciiCompatible = true;
+
+    private ReceiptRenderer() {
+    }
+
+    /**
+     * Gets the renderer bound to the current thread, emptied and encoding with the default charset.
+     * @return The current thread's renderer
+     */
+    public static ReceiptRenderer current() {
+        return current(Charset.defaultCharset());
+    }
+
+    /**
+     * Gets the renderer bound to the current thread, emptied and encoding with the specified charset.
+     * @param charset The charset of the stream or channel the output is written to, or null to leave
+     *                encoding to the print stream passed to writeTo
+     * @return The current thread's renderer
+     */
+    public static ReceiptRenderer current(Charset charset) {
+        ReceiptRenderer renderer = CURRENT.get().reset();
+        if (!Objects.equals(renderer.charset, charset)) {
+            renderer.charset = charset;
+            renderer.asciiCompatible = charset != null && isAsciiCompatible(charset);
+        }
+        return renderer;
+    }
+
+    /**
+     * Gets the charset a print stream encodes text with, so rendered bytes match what print would write.
+     * @param out The print stream
+     * @return The stream's charset, or null if the runtime cannot tell (before Java 18)
+     */
+    public static Charset charsetOf(PrintStream out) {
+        if (PRINT_STREAM_CHARSET == null) return null;
+
+        StreamCharset last = lastStreamCharset;
+        if (last.stream == out) return last.charset;
+
+        Charset charset;
+        try {
+            charset = (Charset) PRINT_STREAM_CHARSET.invoke(out);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+        lastStreamCharset = new StreamCharset(out, charset);
+        return charset;
+    }
+
+    /**
+     * Discards everything rendered so far.
+     * @return This renderer
+     */
+    public ReceiptRenderer reset() {
+        length = 0;
+        return this;
+    }
+
+    /**
+     * Gets the number of bytes rendered so far.
+     * @return The rendered length in bytes
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Renders the shipment notice for the specified items.
+     * @param items The items being shipped
+     * @param totalWeight The total weight in grams
+     * @return This renderer
+     */
+    public ReceiptRenderer shipmentNotice(List<Shippable> items, double totalWeight) {
+        line(SHIPMENT_HEADER);
+
+        for (Shippable item : items) {
+            if (item instanceof ShippableProduct) {
+                ShippableProduct shippable = (ShippableProduct) item;
+                // ShippableProduct.getName concatenates, so the quantity is never localized here
+                number(shippable.getQuantity());
+                quantitySuffixAndName(shippable.getProduct());
+            } else {
+                append(encode(String.valueOf(item.getName())));
+            }
+            append((byte) '\t');
+            rounded(item.getWeight());
+            append(GRAMS);
+            newLine();
+        }
+
+        append(TOTAL_WEIGHT);
+        kilograms(totalWeight);
+        append(KILOGRAMS);
+        newLine();
+        newLine();
+        return this;
+    }
+
+    /**
+     * Renders the checkout receipt.
+     * @param items The purchased items
+     * @param subtotal The subtotal
+     * @param shippingCost The shipping cost
+     * @param totalAmount The total amount
+     * @param balance The customer's balance after checkout
+     * @return This renderer
+     */
+    public ReceiptRenderer receipt(List<CartItem> items, double subtotal, double shippingCost,
+                                   double totalAmount, double balance) {
+        line(RECEIPT_HEADER);
+
+        for (CartItem item : items) {
+            localizedNumber(item.getQuantity());
+            quantitySuffixAndName(item.getProduct());
+            append((byte) '\t');
+            rounded(item.getSubtotal());
+            newLine();
+        }
+
+        line(SEPARATOR);
+        append(SUBTOTAL);
+        rounded(subtotal);
+        newLine();
+        append(SHIPPING);
+        rounded(shippingCost);
+        newLine();
+        append(AMOUNT);
+        rounded(totalAmount);
+        newLine();
+        append(BALANCE);
+        rounded(balance);
+        newLine();
+        newLine();
+        return this;
+    }
+
+    /**
+     * Writes the rendered bytes to the specified stream in a single write call.
+     * @param out The stream to write to
+     * @throws IOException if the stream fails
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        if (!asciiCompatible) {
+            out.write(transcoded());
+            return;
+        }
+        out.write(buffer, 0, length);
+    }
+
+    /**
+     * Writes the rendered bytes to the specified print stream in a single write call.
+     * @param out The print stream to write to
+     */
+    public void writeTo(PrintStream out) {
+        if (!asciiCompatible) {
+            out.print(text());
+            return;
+        }
+        out.write(buffer, 0, length);
+    }
+
+    /**
+     * Writes the rendered bytes to the specified channel, such as a FileChannel.
+     * @param channel The channel to write to
+     * @throws IOException if the channel fails
+     */
+    public void writeTo(WritableByteChannel channel) throws IOException {
+        ByteBuffer bytes = byteBuffer;
+        if (asciiCompatible) {
+            bytes.clear();
+            bytes.limit(length);
+        } else {
+            bytes = ByteBuffer.wrap(transcoded());
+        }
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+    }
+
+    /**
+     * Re-encodes the buffer for charsets such as UTF-16 that cannot reuse the ASCII constants,
+     * or for an unknown charset, which falls back to the default one.
+     * @return The rendered text encoded in the target charset
+     */
+    private byte[] transcoded() {
+        return text().getBytes(charset != null ? charset : Charset.defaultCharset());
+    }
+
+    /**
+     * Decodes the buffer when it does not hold target bytes; in that mode it holds UTF-8,
+     * which round-trips every name losslessly.
+     * @return The rendered text
+     */
+    private String text() {
+        return new String(buffer, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private void quantitySuffixAndName(Product product) {
+        append(QUANTITY_SUFFIX);
+        append(product.getEncodedName(bufferCharset()));
+    }
+
+    /**
+     * Appends the value as printf's %.0f would render it.
+     * @param value The value to append
+     */
+    private void rounded(double value) {
+        NumberFormatState state = numberFormatState();
+        double magnitude = Math.abs(value);
+        if (!state.asciiDigits || !(magnitude < MAX_FAST_VALUE)) {
+            append(encode(String.format("%.0f", value)));
+            return;
+        }
+
+        // Below 2^52 the fraction is exact, so this is HALF_UP on the exact value
+        long whole = (long) magnitude;
+        if (magnitude - whole >= 0.5) whole++;
+
+        if (Double.doubleToRawLongBits(value) < 0) append((byte) '-');
+        number(whole);
+    }
+
+    /**
+     * Appends the weight converted to kilograms as printf's %.1f would render it.
+     * @param grams The weight in grams
+     */
+    private void kilograms(double grams) {
+        NumberFormatState state = numberFormatState();
+        long wholeGrams = (long) grams;
+        if (!state.asciiDigits || state.decimalSeparator != '.' || wholeGrams != grams
+                || Double.doubleToRawLongBits(grams) < 0 || !(grams < MAX_FAST_VALUE)) {
+            append(encode(String.format("%.1f", grams / 1000.0)));
+            return;
+        }
+
+        // Whole grams divided by 1000 print as their exact decimal, so round that HALF_UP
+        long tenths = (wholeGrams + 50) / 100;
+        number(tenths / 10);
+        append((byte) '.');
+        append((byte) ('0' + tenths % 10));
+    }
+
+    /**
+     * Appends the value as printf's %d would render it, in the locale's digits.
+     * @param value The value to append
+     */
+    private void localizedNumber(int value) {
+        if (!numberFormatState().asciiDigits) {
+            append(encode(String.format("%d", value)));
+            return;
+        }
+        number(value);
+    }
+
+    private void number(long value) {
+        if (value < 0) {
+            append((byte) '-');
+            value = -value;
+        }
+
+        int digits = 1;
+        for (long bound = 10; digits < 19 && value >= bound; bound *= 10) {
+            digits++;
+        }
+
+        ensureCapacity(digits);
+        for (int i = length + digits - 1; i >= length; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        length += digits;
+    }
+
+    private void line(byte[] bytes) {
+        append(bytes);
+        newLine();
+    }
+
+    private void newLine() {
+        append(LINE_SEPARATOR);
+    }
+
+    private void append(byte b) {
+        ensureCapacity(1);
+        buffer[length++] = b;
+    }
+
+    private void append(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, length, bytes.length);
+        length += bytes.length;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra <= buffer.length) return;
+
+        byte[] grown = new byte[Math.max(buffer.length * 2, length + extra)];
+        System.arraycopy(buffer, 0, grown, 0, length);
+        buffer = grown;
+        byteBuffer = ByteBuffer.wrap(grown);
+    }
+
+    private byte[] encode(String text) {
+        return text.getBytes(bufferCharset());
+    }
+
+    private Charset bufferCharset() {
+        return asciiCompatible ? charset : StandardCharsets.UTF_8;
+    }
+
+    private static boolean isAsciiCompatible(Charset charset) {
+        return charset.canEncode() && Arrays.equals(ASCII_PROBE.getBytes(charset), ascii(ASCII_PROBE));
+    }
+
+    private static String asciiProbe() {
+        StringBuilder probe = new StringBuilder("\t\r\n");
+        for (char c = ' '; c <= '~'; c++) {
+            probe.append(c);
+        }
+        return probe.toString();
+    }
+
+    private static Method printStreamCharsetMethod() {
+        try {
+            return PrintStream.class.getMethod("charset");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static NumberFormatState numberFormatState() {
+        NumberFormatState state = numberFormatState;
+        Locale locale = defaultFormatLocale();
+        if (state.locale != locale) {
+            state = NumberFormatState.forLocale(locale);
+            numberFormatState = state;
+        }
+        return state;
+    }
+
+    private static Locale defaultFormatLocale() {
+        return Locale.getDefault(Locale.Category.FORMAT);
+    }
+
+    private static byte[] ascii(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * The charset last looked up for a print stream, since System.out is asked for on every receipt.
+     */
+    private static final class StreamCharset {
+        private final PrintStream stream;
+        private final Charset charset;
+
+        private StreamCharset(PrintStream stream, Charset charset) {
+            this.stream = stream;
+            this.charset = charset;
+        }
+    }
+
+    /**
+     * Snapshot of the locale symbols that printf would use for %f conversions.
+     */
+    private static final class NumberFormatState {
+        private final Locale locale;
+        private final boolean asciiDigits;
+        private final char decimalSeparator;
+
+        private NumberFormatState(Locale locale, boolean asciiDigits, char decimalSeparator) {
+            this.locale = locale;
+            this.asciiDigits = asciiDigits;
+            this.decimalSeparator = decimalSeparator;
+        }
+
+        private static NumberFormatState forLocale(Locale locale) {
+            DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(locale);
+            return new NumberFormatState(locale, symbols.getZeroDigit() == '0', symbols.getDecimalSeparator());
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.fawry.ecommerce.service;
 
 import com.fawry.ecommerce.model.Shippable;
 
+import java.io.PrintStream;
 import java.util.List;
 
 /**
@@ -64,15 +65,9 @@ public class ShippingService {
      * @param totalWeight The total weight in grams
      */
     private void printShipmentNotice(List<Shippable> items, double totalWeight) {
-        System.out.println("** Shipment notice **");
-        
-        for (Shippable item : items) {
-            System.out.printf("%s\t%.0fg%n", item.getName(), item.getWeight());
-        }
-        
-        // Convert grams to kg for display
-        double weightInKg = totalWeight / 1000.0;
-        System.out.printf("Total package weight %.1fkg%n", weightInKg);
-        System.out.println();
+        PrintStream out = System.out;
+        ReceiptRenderer.current(ReceiptRenderer.charsetOf(out))
+                .shipmentNotice(items, totalWeight)
+                .writeTo(out);
     }
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.fawry.ecommerce.simulator;
+
+import java.util.Random;
+
+/**
+ * Source of decimal samples, such as customer balances or product prices.
+ */
+public interface DoubleDistribution {
+    double sample(Random random);
+
+    /**
+     * Always returns the same value.
+     * @param value The value to return
+     * @return The distribution
+     */
+    static DoubleDistribution fixed(double value) {
+        return random -> value;
+    }
+
+    /**
+     * Uniform over [min, max).
+     * @param min The smallest value
+     * @param max The upper bound
+     * @return The distribution
+     */
+    static DoubleDistribution uniform(double min, double max) {
+        if (!(min <= max)) throw new IllegalArgumentException("min must not be greater than max");
+        return random -> min + random.nextDouble() * (max - min);
+    }
+
+    /**
+     * Log-normal with the specified median; sigma controls how heavy the right tail is.
+     * @param median The median value
+     * @param sigma The standard deviation of the underlying normal distribution
+     * @return The distribution
+     */
+    static DoubleDistribution logNormal(double median, double sigma) {
+        if (!(median > 0)) throw new IllegalArgumentException("median must be positive");
+        if (!(sigma >= 0)) throw new IllegalArgumentException("sigma must not be negative");
+        double mu = Math.log(median);
+        return random -> Math.exp(mu + sigma * random.nextGaussian());
+    }
+}
@@ -0,0 +1,51 @@
+package com.fawry.ecommerce.simulator;
+
+import java.util.Random;
+
+/**
+ * Source of integer samples, such as cart sizes or line quantities.
+ */
+public interface IntDistribution {
+    int sample(Random random);
+
+    /**
+     * Always returns the same value.
+     * @param value The value to return
+     * @return The distribution
+     */
+    static IntDistribution fixed(int value) {
+        return random -> value;
+    }
+
+    /**
+     * Uniform over [min, max], both inclusive.
+     * @param min The smallest value
+     * @param max The largest value
+     * @return The distribution
+     */
+    static IntDistribution uniform(int min, int max) {
+        if (min > max) throw new IllegalArgumentException("min must not be greater than max");
+        return random -> min + random.nextInt(max - min + 1);
+    }
+
+    /**
+     * Geometric over [min, max] with the specified mean, capped at max.
+     * Most carts are small with a long tail of large ones.
+     * @param min The smallest value
+     * @param mean The mean before capping; a mean equal to min always returns min
+     * @param max The largest value
+     * @return The distribution
+     */
+    static IntDistribution geometric(int min, double mean, int max) {
+        if (min > max) throw new IllegalArgumentException("min must not be greater than max");
+        if (!(mean >= min)) throw new IllegalArgumentException("mean must not be less than min");
+        if (mean == min) return fixed(min);
+
+        double p = 1.0 / (mean - min + 1);
+        double logOneMinusP = Math.log(1 - p);
+        return random -> {
+            int value = min + (int) (Math.log(1 - random.nextDouble()) / logOneMinusP);
+            return Math.min(value, max);
+        };
+    }
+}
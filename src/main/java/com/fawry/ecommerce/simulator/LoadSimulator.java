@@ -0,0 +1,295 @@
+package com.fawry.ecommerce.simulator;
+
+import com.fawry.ecommerce.model.Cart;
+import com.fawry.ecommerce.model.CartItem;
+import com.fawry.ecommerce.model.Customer;
+import com.fawry.ecommerce.model.Product;
+import com.fawry.ecommerce.service.CheckoutService;
+import com.fawry.ecommerce.service.ShippingService;
+import com.fawry.ecommerce.simulator.OrderTrace.Order;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Replays an order trace through Cart and CheckoutService from several threads.
+ *
+ * Products are shared by all threads, so stock is the contended state. Each customer is
+ * owned by a single thread (customerIndex % threadCount), which keeps per-customer order
+ * sequence identical across runs and lets balance changes be attributed to a single order.
+ */
+public class LoadSimulator {
+    private static final int MAX_SAMPLES_PER_VIOLATION = 5;
+
+    private static final String OVERSOLD = "oversold";
+    private static final String NEGATIVE_STOCK = "negative stock";
+    private static final String STOCK_DRIFT = "stock drift";
+    private static final String NEGATIVE_BALANCE = "negative balance";
+    private static final String CHARGED_FOR_FAILURE = "charged for failed order";
+
+    private final int threadCount;
+    private final boolean printReceipts;
+
+    /**
+     * @param threadCount The number of threads placing orders
+     * @param printReceipts Whether shipment notices and receipts go to System.out; when false they are
+     *                      still rendered but discarded, so output does not dominate the measurement
+     */
+    public LoadSimulator(int threadCount, boolean printReceipts) {
+        if (threadCount <= 0) throw new IllegalArgumentException("threadCount must be positive");
+        this.threadCount = threadCount;
+        this.printReceipts = printReceipts;
+    }
+
+    /**
+     * Runs every order in the trace against a fresh copy of its catalog and customers.
+     * @param trace The trace to replay
+     * @return The report for the run
+     * @throws InterruptedException if interrupted while waiting for the workers
+     */
+    public SimulationReport run(OrderTrace trace) throws InterruptedException {
+        List<Product> products = new ArrayList<>();
+        for (OrderTrace.ProductSpec spec : trace.getProducts()) {
+            products.add(spec.newProduct());
+        }
+        List<Customer> customers = new ArrayList<>();
+        for (OrderTrace.CustomerSpec spec : trace.getCustomers()) {
+            customers.add(spec.newCustomer());
+        }
+
+        List<List<Order>> partitions = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            partitions.add(new ArrayList<>());
+        }
+        for (Order order : trace.getOrders()) {
+            partitions.get(order.getCustomerIndex() % threadCount).add(order);
+        }
+
+        CheckoutService checkoutService = new CheckoutService(new ShippingService());
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        PrintStream originalOut = System.out;
+        if (!printReceipts) System.setOut(new PrintStream(new DiscardingOutputStream()));
+
+        List<WorkerResult> results = new ArrayList<>();
+        long wallNanos;
+        try {
+            List<Future<WorkerResult>> futures = new ArrayList<>();
+            for (List<Order> partition : partitions) {
+                futures.add(executor.submit(new Worker(partition, products, customers, checkoutService, start)));
+            }
+
+            long startNanos = System.nanoTime();
+            start.countDown();
+            for (Future<WorkerResult> future : futures) {
+                results.add(future.get());
+            }
+            wallNanos = System.nanoTime() - startNanos;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Simulation worker failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+            System.setOut(originalOut);
+        }
+
+        return buildReport(trace, products, customers, results, wallNanos);
+    }
+
+    private SimulationReport buildReport(OrderTrace trace, List<Product> products, List<Customer> customers,
+                                         List<WorkerResult> results, long wallNanos) {
+        long[] latencies = new long[trace.getOrders().size()];
+        long[] sold = new long[products.size()];
+        Map<String, Integer> failures = new HashMap<>();
+        int successCount = 0;
+        int offset = 0;
+
+        for (WorkerResult result : results) {
+            System.arraycopy(result.latencies, 0, latencies, offset, result.latencies.length);
+            offset += result.latencies.length;
+            successCount += result.successCount;
+            for (int sku = 0; sku < sold.length; sku++) {
+                sold[sku] += result.sold[sku];
+            }
+            for (Map.Entry<String, Integer> failure : result.failures.entrySet()) {
+                failures.merge(failure.getKey(), failure.getValue(), Integer::sum);
+            }
+        }
+        Arrays.sort(latencies);
+
+        // Stock checks first: they are what the run is for, and per-order violations can be numerous
+        Violations violations = new Violations();
+        for (int sku = 0; sku < products.size(); sku++) {
+            int initial = trace.getProducts().get(sku).getStock();
+            int remaining = products.get(sku).getQuantity();
+            String name = products.get(sku).getName();
+            if (sold[sku] > initial) {
+                violations.add(OVERSOLD, "Oversold %s: sold %d of %d in stock", name, sold[sku], initial);
+            }
+            if (remaining < 0) {
+                violations.add(NEGATIVE_STOCK, "Negative stock for %s: %d", name, remaining);
+            }
+            if (initial - sold[sku] != remaining) {
+                violations.add(STOCK_DRIFT, "Stock drift for %s: %d in stock - %d sold != %d remaining",
+                        name, initial, sold[sku], remaining);
+            }
+        }
+
+        for (Customer customer : customers) {
+            if (customer.getBalance() < 0) {
+                violations.add(NEGATIVE_BALANCE, "Negative balance for %s: %.2f", customer.getName(), customer.getBalance());
+            }
+        }
+
+        for (WorkerResult result : results) {
+            violations.addAll(result.violations);
+        }
+
+        return new SimulationReport(threadCount, successCount, wallNanos, failures, latencies, violations.toList());
+    }
+
+    /**
+     * Places the orders of one partition in trace order.
+     */
+    private static class Worker implements Callable<WorkerResult> {
+        private final List<Order> orders;
+        private final List<Product> products;
+        private final List<Customer> customers;
+        private final CheckoutService checkoutService;
+        private final CountDownLatch start;
+
+        Worker(List<Order> orders, List<Product> products, List<Customer> customers,
+               CheckoutService checkoutService, CountDownLatch start) {
+            this.orders = orders;
+            this.products = products;
+            this.customers = customers;
+            this.checkoutService = checkoutService;
+            this.start = start;
+        }
+
+        @Override
+        public WorkerResult call() throws InterruptedException {
+            WorkerResult result = new WorkerResult(orders.size(), products.size());
+            Map<Product, Integer> skuOf = new IdentityHashMap<>();
+            for (int sku = 0; sku < products.size(); sku++) {
+                skuOf.put(products.get(sku), sku);
+            }
+
+            start.await();
+            for (int i = 0; i < orders.size(); i++) {
+                Order order = orders.get(i);
+                Customer customer = customers.get(order.getCustomerIndex());
+                double balanceBefore = customer.getBalance();
+                Cart cart = new Cart();
+                String stage = "cart";
+                Exception failure = null;
+
+                long startNanos = System.nanoTime();
+                try {
+                    for (int line = 0; line < order.getLineCount(); line++) {
+                        cart.add(products.get(order.getSku(line)), order.getQuantity(line));
+                    }
+                    stage = "checkout";
+                    checkoutService.checkout(customer, cart);
+                } catch (Exception e) {
+                    failure = e;
+                }
+                // Stop the clock before any bookkeeping so only the engine is measured
+                result.latencies[i] = System.nanoTime() - startNanos;
+
+                if (failure == null) {
+                    result.successCount++;
+                    for (CartItem item : cart.getItems()) {
+                        result.sold[skuOf.get(item.getProduct())] += item.getQuantity();
+                    }
+                    continue;
+                }
+
+                result.failures.merge(stage + ":" + failure.getClass().getSimpleName(), 1, Integer::sum);
+                if (customer.getBalance() != balanceBefore) {
+                    result.violations.add(CHARGED_FOR_FAILURE, "%s was charged %.2f for a failed order",
+                            customer.getName(), balanceBefore - customer.getBalance());
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * What a single worker observed; only touched by its own thread until the run completes.
+     */
+    private static class WorkerResult {
+        private final long[] latencies;
+        private final long[] sold;
+        private final Map<String, Integer> failures = new HashMap<>();
+        private final Violations violations = new Violations();
+        private int successCount;
+
+        WorkerResult(int orderCount, int skuCount) {
+            this.latencies = new long[orderCount];
+            this.sold = new long[skuCount];
+        }
+    }
+
+    /**
+     * Consistency violations counted per category, keeping only a few sample messages of each
+     * so a badly broken run neither hides one category behind another nor grows without bound.
+     */
+    private static class Violations {
+        private final Map<String, Integer> counts = new LinkedHashMap<>();
+        private final Map<String, List<String>> samples = new LinkedHashMap<>();
+
+        void add(String category, String format, Object... args) {
+            counts.merge(category, 1, Integer::sum);
+            List<String> messages = samples.computeIfAbsent(category, key -> new ArrayList<>());
+            if (messages.size() < MAX_SAMPLES_PER_VIOLATION) messages.add(String.format(format, args));
+        }
+
+        void addAll(Violations other) {
+            for (Map.Entry<String, Integer> count : other.counts.entrySet()) {
+                counts.merge(count.getKey(), count.getValue(), Integer::sum);
+                List<String> messages = samples.computeIfAbsent(count.getKey(), key -> new ArrayList<>());
+                for (String message : other.samples.get(count.getKey())) {
+                    if (messages.size() < MAX_SAMPLES_PER_VIOLATION) messages.add(message);
+                }
+            }
+        }
+
+        List<String> toList() {
+            List<String> list = new ArrayList<>();
+            for (Map.Entry<String, Integer> count : counts.entrySet()) {
+                List<String> messages = samples.get(count.getKey());
+                list.addAll(messages);
+                if (count.getValue() > messages.size()) {
+                    list.add("... and " + (count.getValue() - messages.size()) + " more " + count.getKey());
+                }
+            }
+            return list;
+        }
+    }
+
+    /**
+     * Swallows receipts and shipment notices while load is being measured.
+     */
+    private static class DiscardingOutputStream extends OutputStream {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    }
+}
@@ -0,0 +1,326 @@
+package com.fawry.ecommerce.simulator;
+
+import com.fawry.ecommerce.model.Customer;
+import com.fawry.ecommerce.model.ExpiringProduct;
+import com.fawry.ecommerce.model.NonExpiringProduct;
+import com.fawry.ecommerce.model.Product;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A recorded workload: the catalog and customers it starts from and the orders placed against them.
+ * Traces only hold specs, so the same trace can be replayed any number of times against fresh state.
+ *
+ * The text format is one tab-separated record per line:
+ * <pre>
+ * product  name  price  stock  kind  requiresShipping  weight
+ * customer name  balance
+ * order    customerIndex  sku:quantity,sku:quantity,...   (empty for an empty cart)
+ * </pre>
+ * Blank lines and lines starting with '#' are ignored.
+ */
+public class OrderTrace {
+    private static final String HEADER = "# fawry order trace v1";
+
+    private final List<ProductSpec> products;
+    private final List<CustomerSpec> customers;
+    private final List<Order> orders;
+
+    public OrderTrace(List<ProductSpec> products, List<CustomerSpec> customers, List<Order> orders) {
+        this.products = Collections.unmodifiableList(new ArrayList<>(products));
+        this.customers = Collections.unmodifiableList(new ArrayList<>(customers));
+        this.orders = Collections.unmodifiableList(new ArrayList<>(orders));
+        validate();
+    }
+
+    public List<ProductSpec> getProducts() {
+        return products;
+    }
+
+    public List<CustomerSpec> getCustomers() {
+        return customers;
+    }
+
+    public List<Order> getOrders() {
+        return orders;
+    }
+
+    /**
+     * Writes the trace in the text format.
+     * @param out The writer to write to
+     * @throws IOException if writing fails
+     */
+    public void write(Writer out) throws IOException {
+        BufferedWriter writer = new BufferedWriter(out);
+        writer.write(HEADER);
+        writer.newLine();
+
+        for (ProductSpec product : products) {
+            writer.write("product\t" + product.getName() + "\t" + product.getPrice() + "\t" + product.getStock()
+                    + "\t" + product.getKind() + "\t" + product.requiresShipping() + "\t" + product.getWeight());
+            writer.newLine();
+        }
+
+        for (CustomerSpec customer : customers) {
+            writer.write("customer\t" + customer.getName() + "\t" + customer.getBalance());
+            writer.newLine();
+        }
+
+        StringBuilder line = new StringBuilder();
+        for (Order order : orders) {
+            line.setLength(0);
+            line.append("order\t").append(order.getCustomerIndex()).append('\t');
+            for (int i = 0; i < order.getLineCount(); i++) {
+                if (i > 0) line.append(',');
+                line.append(order.getSku(i)).append(':').append(order.getQuantity(i));
+            }
+            writer.write(line.toString());
+            writer.newLine();
+        }
+
+        writer.flush();
+    }
+
+    /**
+     * Reads a trace in the text format.
+     * @param in The reader to read from
+     * @return The trace
+     * @throws IOException if reading fails
+     * @throws IllegalArgumentException if the trace is malformed
+     */
+    public static OrderTrace read(Reader in) throws IOException {
+        BufferedReader reader = new BufferedReader(in);
+        List<ProductSpec> products = new ArrayList<>();
+        List<CustomerSpec> customers = new ArrayList<>();
+        List<Order> orders = new ArrayList<>();
+
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isEmpty() || line.startsWith("#")) continue;
+
+            String[] fields = line.split("\t", -1);
+            try {
+                switch (fields[0]) {
+                    case "product":
+                        expectFields(fields, 7);
+                        products.add(new ProductSpec(fields[1], Double.parseDouble(fields[2]),
+                                Integer.parseInt(fields[3]), ProductKind.valueOf(fields[4]),
+                                parseBoolean(fields[5]), Double.parseDouble(fields[6])));
+                        break;
+                    case "customer":
+                        expectFields(fields, 3);
+                        customers.add(new CustomerSpec(fields[1], Double.parseDouble(fields[2])));
+                        break;
+                    case "order":
+                        expectFields(fields, 3);
+                        orders.add(parseOrder(Integer.parseInt(fields[1]), fields[2]));
+                        break;
+                    default:
+                        throw new IllegalArgumentException("unknown record type '" + fields[0] + "'");
+                }
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Malformed trace line " + lineNumber + ": " + e.getMessage(), e);
+            }
+        }
+
+        return new OrderTrace(products, customers, orders);
+    }
+
+    private static void expectFields(String[] fields, int count) {
+        if (fields.length != count) {
+            throw new IllegalArgumentException("expected " + count + " fields, found " + fields.length);
+        }
+    }
+
+    private static boolean parseBoolean(String value) {
+        if (value.equals("true")) return true;
+        if (value.equals("false")) return false;
+        throw new IllegalArgumentException("expected true or false, found '" + value + "'");
+    }
+
+    /**
+     * Rejects names that would break the one-record-per-line format when read back.
+     * @param name The name to check
+     * @param kind What the name belongs to, for the error message
+     * @throws IllegalArgumentException if the name is null or contains a tab or a line break
+     */
+    private static void checkName(String name, String kind) {
+        if (name == null) throw new IllegalArgumentException(kind + " name must not be null");
+        if (name.indexOf('\t') >= 0 || name.indexOf('\n') >= 0 || name.indexOf('\r') >= 0) {
+            throw new IllegalArgumentException(kind + " name must not contain tabs or line breaks");
+        }
+    }
+
+    private static Order parseOrder(int customerIndex, String lines) {
+        if (lines.isEmpty()) return new Order(customerIndex, new int[0], new int[0]);
+
+        String[] entries = lines.split(",");
+        int[] skus = new int[entries.length];
+        int[] quantities = new int[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            int separator = entries[i].indexOf(':');
+            if (separator < 0) throw new IllegalArgumentException("expected sku:quantity, found '" + entries[i] + "'");
+            skus[i] = Integer.parseInt(entries[i].substring(0, separator));
+            quantities[i] = Integer.parseInt(entries[i].substring(separator + 1));
+        }
+        return new Order(customerIndex, skus, quantities);
+    }
+
+    private void validate() {
+        for (Order order : orders) {
+            if (order.getCustomerIndex() < 0 || order.getCustomerIndex() >= customers.size()) {
+                throw new IllegalArgumentException("Order references unknown customer " + order.getCustomerIndex());
+            }
+            for (int i = 0; i < order.getLineCount(); i++) {
+                if (order.getSku(i) < 0 || order.getSku(i) >= products.size()) {
+                    throw new IllegalArgumentException("Order references unknown sku " + order.getSku(i));
+                }
+            }
+        }
+    }
+
+    /**
+     * How a product behaves with respect to expiry.
+     */
+    public enum ProductKind {
+        NON_EXPIRING,
+        FRESH,
+        EXPIRED
+    }
+
+    /**
+     * Starting state of a catalog product.
+     */
+    public static class ProductSpec {
+        private final String name;
+        private final double price;
+        private final int stock;
+        private final ProductKind kind;
+        private final boolean requiresShipping;
+        private final double weight;
+
+        public ProductSpec(String name, double price, int stock, ProductKind kind,
+                           boolean requiresShipping, double weight) {
+            checkName(name, "Product");
+            this.name = name;
+            this.price = price;
+            this.stock = stock;
+            this.kind = kind;
+            this.requiresShipping = requiresShipping;
+            this.weight = weight;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public double getPrice() {
+            return price;
+        }
+
+        public int getStock() {
+            return stock;
+        }
+
+        public ProductKind getKind() {
+            return kind;
+        }
+
+        public boolean requiresShipping() {
+            return requiresShipping;
+        }
+
+        public double getWeight() {
+            return weight;
+        }
+
+        /**
+         * Creates a fresh product in this starting state.
+         * @return The product
+         */
+        public Product newProduct() {
+            switch (kind) {
+                case FRESH:
+                    return new ExpiringProduct(name, price, stock, LocalDate.now().plusDays(30), requiresShipping, weight);
+                case EXPIRED:
+                    return new ExpiringProduct(name, price, stock, LocalDate.now().minusDays(1), requiresShipping, weight);
+                default:
+                    return new NonExpiringProduct(name, price, stock, requiresShipping, weight);
+            }
+        }
+    }
+
+    /**
+     * Starting state of a customer.
+     */
+    public static class CustomerSpec {
+        private final String name;
+        private final double balance;
+
+        public CustomerSpec(String name, double balance) {
+            checkName(name, "Customer");
+            this.name = name;
+            this.balance = balance;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public double getBalance() {
+            return balance;
+        }
+
+        /**
+         * Creates a fresh customer in this starting state.
+         * @return The customer
+         */
+        public Customer newCustomer() {
+            return new Customer(name, balance);
+        }
+    }
+
+    /**
+     * A single order: the customer placing it and the quantity requested per sku.
+     */
+    public static class Order {
+        private final int customerIndex;
+        private final int[] skus;
+        private final int[] quantities;
+
+        public Order(int customerIndex, int[] skus, int[] quantities) {
+            if (skus.length != quantities.length) {
+                throw new IllegalArgumentException("Every sku needs exactly one quantity");
+            }
+            this.customerIndex = customerIndex;
+            this.skus = skus.clone();
+            this.quantities = quantities.clone();
+        }
+
+        public int getCustomerIndex() {
+            return customerIndex;
+        }
+
+        public int getLineCount() {
+            return skus.length;
+        }
+
+        public int getSku(int line) {
+            return skus[line];
+        }
+
+        public int getQuantity(int line) {
+            return quantities[line];
+        }
+    }
+}
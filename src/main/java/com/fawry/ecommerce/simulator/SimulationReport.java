@@ -0,0 +1,123 @@
+package com.fawry.ecommerce.simulator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Outcome of a simulation run: throughput, failure mix, latency percentiles and consistency violations.
+ */
+public class SimulationReport {
+    private static final double[] REPORTED_PERCENTILES = {50, 90, 99, 99.9};
+
+    private final int threadCount;
+    private final int orderCount;
+    private final int successCount;
+    private final long wallNanos;
+    private final Map<String, Integer> failures;
+    private final long[] sortedLatencies;
+    private final List<String> violations;
+
+    public SimulationReport(int threadCount, int successCount, long wallNanos, Map<String, Integer> failures,
+                            long[] sortedLatencies, List<String> violations) {
+        this.threadCount = threadCount;
+        this.orderCount = sortedLatencies.length;
+        this.successCount = successCount;
+        this.wallNanos = wallNanos;
+        this.failures = Collections.unmodifiableMap(new TreeMap<>(failures));
+        this.sortedLatencies = sortedLatencies;
+        this.violations = Collections.unmodifiableList(new ArrayList<>(violations));
+    }
+
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    public int getOrderCount() {
+        return orderCount;
+    }
+
+    public int getSuccessCount() {
+        return successCount;
+    }
+
+    public long getWallNanos() {
+        return wallNanos;
+    }
+
+    /**
+     * Gets the number of failed orders per failure type, keyed as "stage:ExceptionName".
+     * @return Failure counts by type
+     */
+    public Map<String, Integer> getFailures() {
+        return failures;
+    }
+
+    /**
+     * Gets every consistency violation found after the run, such as oversold stock.
+     * @return The violations, empty if the run was consistent
+     */
+    public List<String> getViolations() {
+        return violations;
+    }
+
+    public boolean isConsistent() {
+        return violations.isEmpty();
+    }
+
+    /**
+     * Gets the order throughput over the wall-clock duration of the run.
+     * @return Orders per second
+     */
+    public double getThroughput() {
+        return wallNanos == 0 ? 0 : orderCount * 1e9 / wallNanos;
+    }
+
+    /**
+     * Gets a latency percentile using the nearest-rank method.
+     * @param percentile The percentile, in (0, 100]
+     * @return The latency in nanoseconds, or 0 if no orders ran
+     */
+    public long getLatencyPercentile(double percentile) {
+        if (percentile <= 0 || percentile > 100) throw new IllegalArgumentException("percentile must be in (0, 100]");
+        if (orderCount == 0) return 0;
+        int rank = (int) Math.ceil(percentile / 100 * orderCount);
+        return sortedLatencies[Math.max(rank, 1) - 1];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format(Locale.ROOT, "Orders\t\t%d (%d succeeded, %d failed) on %d threads%n",
+                orderCount, successCount, orderCount - successCount, threadCount));
+        report.append(String.format(Locale.ROOT, "Wall time\t%.1f ms%n", wallNanos / 1e6));
+        report.append(String.format(Locale.ROOT, "Throughput\t%.0f orders/s%n", getThroughput()));
+
+        report.append("Latency\t\t");
+        for (double percentile : REPORTED_PERCENTILES) {
+            report.append(String.format(Locale.ROOT, "p%s=%.1fus ",
+                    percentile == Math.rint(percentile) ? String.valueOf((int) percentile) : String.valueOf(percentile),
+                    getLatencyPercentile(percentile) / 1e3));
+        }
+        long max = orderCount == 0 ? 0 : sortedLatencies[orderCount - 1];
+        report.append(String.format(Locale.ROOT, "max=%.1fus%n", max / 1e3));
+
+        report.append("Failures").append(System.lineSeparator());
+        if (failures.isEmpty()) report.append("\tnone").append(System.lineSeparator());
+        for (Map.Entry<String, Integer> failure : failures.entrySet()) {
+            report.append(String.format(Locale.ROOT, "\t%-45s %d (%.2f%%)%n", failure.getKey(), failure.getValue(),
+                    orderCount == 0 ? 0 : failure.getValue() * 100.0 / orderCount));
+        }
+
+        report.append("Consistency").append(System.lineSeparator());
+        if (violations.isEmpty()) report.append("\tok").append(System.lineSeparator());
+        for (String violation : violations) {
+            report.append('\t').append(violation).append(System.lineSeparator());
+        }
+
+        return report.toString();
+    }
+}
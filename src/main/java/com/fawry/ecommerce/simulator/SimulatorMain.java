@@ -0,0 +1,149 @@
+package com.fawry.ecommerce.simulator;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Command line entry point for the load simulator.
+ *
+ * Generates a seeded workload (or replays a recorded trace), runs it and prints the report.
+ * Run with --help for the available options.
+ */
+public class SimulatorMain {
+    private static final String USAGE = String.join(System.lineSeparator(),
+            "Usage: java com.fawry.ecommerce.simulator.SimulatorMain [options]",
+            "  --threads N          threads placing orders (default 4)",
+            "  --seed N             workload seed (default 42)",
+            "  --orders N           orders to generate (default 100000)",
+            "  --skus N             catalog size (default 500)",
+            "  --customers N        number of customers (default 1000)",
+            "  --zipf S             sku popularity skew, 0 = uniform (default 1.0)",
+            "  --cart-mean X        mean cart size, geometric, at least 1 (default 3)",
+            "  --cart-max N         largest cart size, at least 1 (default 20)",
+            "  --expired-ratio R    share of expired products (default 0.02)",
+            "  --balance-median X   median customer balance, log-normal (default 5000)",
+            "  --record FILE        save the generated trace to FILE",
+            "  --replay FILE        replay the trace in FILE instead of generating one",
+            "  --print-receipts     print shipment notices and receipts while running",
+            "Generator options (--seed to --balance-median) cannot be combined with --replay.");
+
+    private static final List<String> GENERATOR_OPTIONS = Arrays.asList("--seed", "--orders", "--skus",
+            "--customers", "--zipf", "--cart-mean", "--cart-max", "--expired-ratio", "--balance-median");
+
+    public static void main(String[] args) throws InterruptedException {
+        WorkloadConfig.Builder config = WorkloadConfig.builder();
+        int threads = 4;
+        int cartMin = 1;
+        double cartMean = 3;
+        int cartMax = 20;
+        String recordFile = null;
+        String replayFile = null;
+        String generatorOption = null;
+        boolean printReceipts = false;
+        WorkloadConfig workload = null;
+        LoadSimulator simulator;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String option = args[i];
+                switch (option) {
+                    case "--threads": threads = Integer.parseInt(value(args, ++i)); break;
+                    case "--seed": config.seed(Long.parseLong(value(args, ++i))); break;
+                    case "--orders": config.orderCount(Integer.parseInt(value(args, ++i))); break;
+                    case "--skus": config.skuCount(Integer.parseInt(value(args, ++i))); break;
+                    case "--customers": config.customerCount(Integer.parseInt(value(args, ++i))); break;
+                    case "--zipf": config.zipfExponent(Double.parseDouble(value(args, ++i))); break;
+                    case "--cart-mean": cartMean = Double.parseDouble(value(args, ++i)); break;
+                    case "--cart-max": cartMax = Integer.parseInt(value(args, ++i)); break;
+                    case "--expired-ratio": config.expiredRatio(Double.parseDouble(value(args, ++i))); break;
+                    case "--balance-median":
+                        config.balance(DoubleDistribution.logNormal(Double.parseDouble(value(args, ++i)), 1.0));
+                        break;
+                    case "--record": recordFile = value(args, ++i); break;
+                    case "--replay": replayFile = value(args, ++i); break;
+                    case "--print-receipts": printReceipts = true; break;
+                    case "--help":
+                        System.out.println(USAGE);
+                        return;
+                    default:
+                        throw new IllegalArgumentException("Unknown option " + option);
+                }
+                if (GENERATOR_OPTIONS.contains(option) && generatorOption == null) generatorOption = option;
+            }
+
+            simulator = new LoadSimulator(threads, printReceipts);
+            if (replayFile != null) {
+                // A trace fixes the catalog, customers and orders, so generator options would be ignored
+                if (generatorOption != null) {
+                    throw new IllegalArgumentException(generatorOption + " cannot be combined with --replay");
+                }
+            } else {
+                if (!(cartMean >= cartMin)) throw new IllegalArgumentException("--cart-mean must be at least " + cartMin);
+                if (cartMax < cartMin) throw new IllegalArgumentException("--cart-max must be at least " + cartMin);
+                config.cartSize(IntDistribution.geometric(cartMin, cartMean, cartMax));
+                workload = config.build();
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+            return;
+        }
+
+        OrderTrace trace;
+        if (replayFile != null) {
+            try (Reader reader = Files.newBufferedReader(Paths.get(replayFile), StandardCharsets.UTF_8)) {
+                trace = OrderTrace.read(reader);
+            } catch (IOException | IllegalArgumentException e) {
+                System.err.println("Error: cannot read trace " + replayFile + ": " + describe(e));
+                System.exit(2);
+                return;
+            }
+        } else {
+            trace = new WorkloadGenerator(workload).generate();
+        }
+
+        if (recordFile != null) {
+            try (Writer writer = Files.newBufferedWriter(Paths.get(recordFile), StandardCharsets.UTF_8)) {
+                trace.write(writer);
+            } catch (IOException | IllegalArgumentException e) {
+                System.err.println("Error: cannot write trace " + recordFile + ": " + describe(e));
+                System.exit(2);
+                return;
+            }
+        }
+
+        SimulationReport report = simulator.run(trace);
+        System.out.print(report);
+        if (!report.isConsistent()) System.exit(1);
+    }
+
+    /**
+     * Describes a failure for the command line; NIO file exceptions carry only the path as their
+     * message, which the caller already prints.
+     * @param e The failure
+     * @return A one-line description
+     */
+    private static String describe(Exception e) {
+        if (e instanceof NoSuchFileException) return "no such file";
+        if (e instanceof AccessDeniedException) return "permission denied";
+        if (e instanceof FileSystemException && ((FileSystemException) e).getReason() != null) {
+            return ((FileSystemException) e).getReason();
+        }
+        return e.getMessage();
+    }
+
+    private static String value(String[] args, int index) {
+        if (index >= args.length) throw new IllegalArgumentException(args[index - 1] + " requires a value");
+        return args[index];
+    }
+}
@@ -0,0 +1,184 @@
+package com.fawry.ecommerce.simulator;
+
+/**
+ * Parameters for generating a reproducible workload.
+ * Two configs with the same values always generate the same trace.
+ */
+public class WorkloadConfig {
+    private final long seed;
+    private final int skuCount;
+    private final double zipfExponent;
+    private final int customerCount;
+    private final int orderCount;
+    private final IntDistribution cartSize;
+    private final IntDistribution lineQuantity;
+    private final IntDistribution stock;
+    private final DoubleDistribution price;
+    private final DoubleDistribution balance;
+    private final double expiredRatio;
+    private final double shippableRatio;
+
+    private WorkloadConfig(Builder builder) {
+        this.seed = builder.seed;
+        this.skuCount = builder.skuCount;
+        this.zipfExponent = builder.zipfExponent;
+        this.customerCount = builder.customerCount;
+        this.orderCount = builder.orderCount;
+        this.cartSize = builder.cartSize;
+        this.lineQuantity = builder.lineQuantity;
+        this.stock = builder.stock;
+        this.price = builder.price;
+        this.balance = builder.balance;
+        this.expiredRatio = builder.expiredRatio;
+        this.shippableRatio = builder.shippableRatio;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getSkuCount() {
+        return skuCount;
+    }
+
+    public double getZipfExponent() {
+        return zipfExponent;
+    }
+
+    public int getCustomerCount() {
+        return customerCount;
+    }
+
+    public int getOrderCount() {
+        return orderCount;
+    }
+
+    public IntDistribution getCartSize() {
+        return cartSize;
+    }
+
+    public IntDistribution getLineQuantity() {
+        return lineQuantity;
+    }
+
+    public IntDistribution getStock() {
+        return stock;
+    }
+
+    public DoubleDistribution getPrice() {
+        return price;
+    }
+
+    public DoubleDistribution getBalance() {
+        return balance;
+    }
+
+    public double getExpiredRatio() {
+        return expiredRatio;
+    }
+
+    public double getShippableRatio() {
+        return shippableRatio;
+    }
+
+    /**
+     * Builder for WorkloadConfig; every setting has a default.
+     */
+    public static class Builder {
+        private long seed = 42;
+        private int skuCount = 500;
+        private double zipfExponent = 1.0;
+        private int customerCount = 1000;
+        private int orderCount = 100000;
+        private IntDistribution cartSize = IntDistribution.geometric(1, 3, 20);
+        private IntDistribution lineQuantity = IntDistribution.geometric(1, 1.5, 10);
+        private IntDistribution stock = IntDistribution.uniform(500, 5000);
+        private DoubleDistribution price = DoubleDistribution.logNormal(150, 1.0);
+        private DoubleDistribution balance = DoubleDistribution.logNormal(5000, 1.0);
+        private double expiredRatio = 0.02;
+        private double shippableRatio = 0.7;
+
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        public Builder skuCount(int skuCount) {
+            this.skuCount = skuCount;
+            return this;
+        }
+
+        public Builder zipfExponent(double zipfExponent) {
+            this.zipfExponent = zipfExponent;
+            return this;
+        }
+
+        public Builder customerCount(int customerCount) {
+            this.customerCount = customerCount;
+            return this;
+        }
+
+        public Builder orderCount(int orderCount) {
+            this.orderCount = orderCount;
+            return this;
+        }
+
+        public Builder cartSize(IntDistribution cartSize) {
+            this.cartSize = cartSize;
+            return this;
+        }
+
+        public Builder lineQuantity(IntDistribution lineQuantity) {
+            this.lineQuantity = lineQuantity;
+            return this;
+        }
+
+        public Builder stock(IntDistribution stock) {
+            this.stock = stock;
+            return this;
+        }
+
+        public Builder price(DoubleDistribution price) {
+            this.price = price;
+            return this;
+        }
+
+        public Builder balance(DoubleDistribution balance) {
+            this.balance = balance;
+            return this;
+        }
+
+        public Builder expiredRatio(double expiredRatio) {
+            this.expiredRatio = expiredRatio;
+            return this;
+        }
+
+        public Builder shippableRatio(double shippableRatio) {
+            this.shippableRatio = shippableRatio;
+            return this;
+        }
+
+        /**
+         * Builds the config.
+         * @return The config
+         * @throws IllegalArgumentException if a count is not positive, the Zipf exponent is negative,
+         *                                  a ratio is outside [0, 1] or a distribution is missing
+         */
+        public WorkloadConfig build() {
+            if (skuCount <= 0) throw new IllegalArgumentException("skuCount must be positive");
+            if (customerCount <= 0) throw new IllegalArgumentException("customerCount must be positive");
+            if (orderCount < 0) throw new IllegalArgumentException("orderCount must not be negative");
+            if (!(zipfExponent >= 0)) throw new IllegalArgumentException("zipfExponent must not be negative");
+            if (!(expiredRatio >= 0 && expiredRatio <= 1)) throw new IllegalArgumentException("expiredRatio must be in [0, 1]");
+            if (!(shippableRatio >= 0 && shippableRatio <= 1)) throw new IllegalArgumentException("shippableRatio must be in [0, 1]");
+            if (cartSize == null || lineQuantity == null || stock == null || price == null || balance == null) {
+                throw new IllegalArgumentException("distributions must not be null");
+            }
+            return new WorkloadConfig(this);
+        }
+    }
+}
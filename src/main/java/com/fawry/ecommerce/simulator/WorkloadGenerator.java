@@ -0,0 +1,98 @@
+package com.fawry.ecommerce.simulator;
+
+import com.fawry.ecommerce.simulator.OrderTrace.CustomerSpec;
+import com.fawry.ecommerce.simulator.OrderTrace.Order;
+import com.fawry.ecommerce.simulator.OrderTrace.ProductKind;
+import com.fawry.ecommerce.simulator.OrderTrace.ProductSpec;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Generates reproducible order traces from a WorkloadConfig.
+ * The catalog, customers and orders are drawn from separate seeded streams, so changing
+ * the order count does not change the catalog or the customers.
+ */
+public class WorkloadGenerator {
+    private static final long CATALOG_STREAM = 0x5DEECE66DL;
+    private static final long CUSTOMER_STREAM = 0x2545F4914F6CDD1DL;
+    private static final long ORDER_STREAM = 0x9E3779B97F4A7C15L;
+
+    private final WorkloadConfig config;
+
+    public WorkloadGenerator(WorkloadConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Generates the trace described by the config.
+     * @return The trace
+     */
+    public OrderTrace generate() {
+        return new OrderTrace(generateProducts(), generateCustomers(), generateOrders());
+    }
+
+    private List<ProductSpec> generateProducts() {
+        Random random = new Random(config.getSeed() ^ CATALOG_STREAM);
+        List<ProductSpec> products = new ArrayList<>(config.getSkuCount());
+
+        for (int sku = 0; sku < config.getSkuCount(); sku++) {
+            ProductKind kind;
+            if (random.nextDouble() < config.getExpiredRatio()) kind = ProductKind.EXPIRED;
+            else kind = random.nextBoolean() ? ProductKind.FRESH : ProductKind.NON_EXPIRING;
+
+            boolean requiresShipping = random.nextDouble() < config.getShippableRatio();
+            double weight = requiresShipping ? 50 + random.nextInt(20000) : 0;
+            double price = Math.max(1, Math.round(config.getPrice().sample(random)));
+            int stock = Math.max(0, config.getStock().sample(random));
+
+            products.add(new ProductSpec(String.format(Locale.ROOT, "SKU-%05d", sku), price, stock, kind, requiresShipping, weight));
+        }
+
+        return products;
+    }
+
+    private List<CustomerSpec> generateCustomers() {
+        Random random = new Random(config.getSeed() ^ CUSTOMER_STREAM);
+        List<CustomerSpec> customers = new ArrayList<>(config.getCustomerCount());
+
+        for (int i = 0; i < config.getCustomerCount(); i++) {
+            double balance = Math.max(0, Math.round(config.getBalance().sample(random)));
+            customers.add(new CustomerSpec(String.format(Locale.ROOT, "Customer-%05d", i), balance));
+        }
+
+        return customers;
+    }
+
+    private List<Order> generateOrders() {
+        Random random = new Random(config.getSeed() ^ ORDER_STREAM);
+        ZipfSampler popularity = new ZipfSampler(config.getSkuCount(), config.getZipfExponent());
+
+        // Map popularity ranks to skus in random order so the best sellers are spread over the catalog
+        List<Integer> skuByRank = new ArrayList<>(config.getSkuCount());
+        for (int sku = 0; sku < config.getSkuCount(); sku++) {
+            skuByRank.add(sku);
+        }
+        Collections.shuffle(skuByRank, random);
+
+        List<Order> orders = new ArrayList<>(config.getOrderCount());
+        for (int i = 0; i < config.getOrderCount(); i++) {
+            int customerIndex = random.nextInt(config.getCustomerCount());
+            int lineCount = Math.max(0, config.getCartSize().sample(random));
+            int[] skus = new int[lineCount];
+            int[] quantities = new int[lineCount];
+
+            for (int line = 0; line < lineCount; line++) {
+                skus[line] = skuByRank.get(popularity.sample(random));
+                quantities[line] = Math.max(1, config.getLineQuantity().sample(random));
+            }
+
+            orders.add(new Order(customerIndex, skus, quantities));
+        }
+
+        return orders;
+    }
+}
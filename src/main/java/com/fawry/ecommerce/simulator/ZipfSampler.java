@@ -0,0 +1,41 @@
+package com.fawry.ecommerce.simulator;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Samples item ranks following a Zipf distribution, so rank 0 is the most popular.
+ */
+public class ZipfSampler {
+    private final double[] cumulative;
+
+    /**
+     * @param size The number of items
+     * @param exponent The skew; 0 is uniform, around 1 is typical for product popularity
+     */
+    public ZipfSampler(int size, double exponent) {
+        if (size <= 0) throw new IllegalArgumentException("size must be positive");
+        if (!(exponent >= 0)) throw new IllegalArgumentException("exponent must not be negative");
+
+        cumulative = new double[size];
+        double total = 0;
+        for (int rank = 0; rank < size; rank++) {
+            total += 1.0 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = total;
+        }
+        for (int rank = 0; rank < size; rank++) {
+            cumulative[rank] /= total;
+        }
+    }
+
+    /**
+     * Draws the next rank.
+     * @param random The random source
+     * @return A rank in [0, size)
+     */
+    public int sample(Random random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int rank = index >= 0 ? index : -index - 1;
+        return Math.min(rank, cumulative.length - 1);
+    }
+}